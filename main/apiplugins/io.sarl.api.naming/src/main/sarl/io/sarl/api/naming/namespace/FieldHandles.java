@@ -0,0 +1,360 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.api.naming.namespace;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolved accessors to a non-static field.
+ *
+ * <p>The accessors are resolved once per field with method handles, and they are shared by all the
+ * {@link FieldAccess} to this field. The typed getters, e.g. {@link #getInt(Object)},
+ * invoke method handles that are typed with the primitive type, so that the primitive values are
+ * read without boxing them. As for {@link Field#getInt(Object)}, a typed getter accepts the
+ * fields with a primitive type that could be converted by a widening conversion.
+ * Method handles cannot write final fields; so that the final fields are written with reflection.
+ *
+ * <p>The accessors are cached per declaring type. Only the non-static fields that are declared
+ * into a type could be cached for this type. Consequently, the size of the cache is bounded by the
+ * number of declared fields, and the searches for missing fields are not cached.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+public final class FieldHandles {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final ClassValue<DeclaredFields> DECLARED_FIELDS = new ClassValue<DeclaredFields>() {
+		@Override
+		protected DeclaredFields computeValue(Class<?> type) {
+			return new DeclaredFields(type);
+		}
+	};
+
+	private final Field field;
+
+	private final MethodHandle getter;
+
+	private final MethodHandle setter;
+
+	private final MethodHandle booleanGetter;
+
+	private final MethodHandle intGetter;
+
+	private final MethodHandle longGetter;
+
+	private final MethodHandle floatGetter;
+
+	private final MethodHandle doubleGetter;
+
+	private FieldHandles(Field field) throws IllegalAccessException {
+		assert !Modifier.isStatic(field.getModifiers());
+		this.field = field;
+		field.setAccessible(true);
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		final MethodHandle rawGetter = lookup.unreflectGetter(field);
+		this.getter = rawGetter.asType(GETTER_TYPE);
+		if (Modifier.isFinal(field.getModifiers())) {
+			this.setter = null;
+		} else {
+			this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+		}
+		if (field.getType().isPrimitive()) {
+			this.booleanGetter = typedGetter(rawGetter, boolean.class);
+			this.intGetter = typedGetter(rawGetter, int.class);
+			this.longGetter = typedGetter(rawGetter, long.class);
+			this.floatGetter = typedGetter(rawGetter, float.class);
+			this.doubleGetter = typedGetter(rawGetter, double.class);
+		} else {
+			this.booleanGetter = null;
+			this.intGetter = null;
+			this.longGetter = null;
+			this.floatGetter = null;
+			this.doubleGetter = null;
+		}
+	}
+
+	/** Create a getter that is replying a value of the given primitive type.
+	 *
+	 * @param rawGetter the getter that is replying the value with the type of the field.
+	 * @param type the primitive type.
+	 * @return the getter, or {@code null} if the type of the field cannot be converted to the given type.
+	 */
+	private static MethodHandle typedGetter(MethodHandle rawGetter, Class<?> type) {
+		try {
+			return rawGetter.asType(MethodType.methodType(type, Object.class));
+		} catch (WrongMethodTypeException ex) {
+			return null;
+		}
+	}
+
+	/** Replies the accessors to the non-static field with the given name that is declared into the given type.
+	 * The inherited fields are not considered.
+	 *
+	 * @param type the type that declares the field.
+	 * @param name the name of the field.
+	 * @return the accessors, or {@code null} if the field is not declared or it is static.
+	 */
+	public static FieldHandles getDeclaredField(Class<?> type, String name) {
+		return DECLARED_FIELDS.get(type).getHandles(name);
+	}
+
+	/** Replies the accessors to the given non-static field.
+	 *
+	 * @param field the field.
+	 * @return the accessors.
+	 */
+	public static FieldHandles of(Field field) {
+		final FieldHandles handles = getDeclaredField(field.getDeclaringClass(), field.getName());
+		assert handles != null && handles.getField().equals(field);
+		return handles;
+	}
+
+	/** Replies the field.
+	 *
+	 * @return the field.
+	 */
+	public Field getField() {
+		return this.field;
+	}
+
+	/** Replies the value of the field.
+	 *
+	 * @param instance the object that contains the field.
+	 * @return the field's value.
+	 */
+	public Object get(Object instance) {
+		try {
+			return (Object) this.getter.invokeExact(instance);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/** Change the value of the field.
+	 *
+	 * @param instance the object that contains the field.
+	 * @param value the new value.
+	 * @throws IllegalArgumentException if the given value cannot be assigned to the field.
+	 * @throws IllegalAccessException if the final field cannot be written.
+	 */
+	public void set(Object instance, Object value) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.field.set(instance, value);
+		} else {
+			try {
+				this.setter.invokeExact(instance, value);
+			} catch (ClassCastException ex) {
+				throw new IllegalArgumentException(ex);
+			} catch (NullPointerException ex) {
+				// Null value for a primitive field
+				throw new IllegalArgumentException(ex);
+			} catch (RuntimeException | Error ex) {
+				throw ex;
+			} catch (Throwable ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
+	private IllegalArgumentException unsupportedType(Class<?> type) {
+		return new IllegalArgumentException(MessageFormat.format(Messages.FieldHandles_0,
+				this.field.getName(), this.field.getType().getName(), type.getName()));
+	}
+
+	/** Replies the value of the boolean field without boxing it.
+	 *
+	 * @param instance the object that contains the field.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field is not a boolean field.
+	 */
+	public boolean getBoolean(Object instance) {
+		final MethodHandle handle = this.booleanGetter;
+		if (handle == null) {
+			throw unsupportedType(boolean.class);
+		}
+		try {
+			return (boolean) handle.invokeExact(instance);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/** Replies the value of the integer field without boxing it.
+	 *
+	 * @param instance the object that contains the field.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field's value cannot be converted to an integer without loss.
+	 */
+	public int getInt(Object instance) {
+		final MethodHandle handle = this.intGetter;
+		if (handle == null) {
+			throw unsupportedType(int.class);
+		}
+		try {
+			return (int) handle.invokeExact(instance);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/** Replies the value of the long integer field without boxing it.
+	 *
+	 * @param instance the object that contains the field.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field's value cannot be converted to a long integer without loss.
+	 */
+	public long getLong(Object instance) {
+		final MethodHandle handle = this.longGetter;
+		if (handle == null) {
+			throw unsupportedType(long.class);
+		}
+		try {
+			return (long) handle.invokeExact(instance);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/** Replies the value of the floating-point field without boxing it.
+	 *
+	 * @param instance the object that contains the field.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field's value cannot be converted to a float without loss.
+	 */
+	public float getFloat(Object instance) {
+		final MethodHandle handle = this.floatGetter;
+		if (handle == null) {
+			throw unsupportedType(float.class);
+		}
+		try {
+			return (float) handle.invokeExact(instance);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/** Replies the value of the double-precision field without boxing it.
+	 *
+	 * @param instance the object that contains the field.
+	 * @return the field's value.
+	 * @throws IllegalArgumentException if the field's value cannot be converted to a double without loss.
+	 */
+	public double getDouble(Object instance) {
+		final MethodHandle handle = this.doubleGetter;
+		if (handle == null) {
+			throw unsupportedType(double.class);
+		}
+		try {
+			return (double) handle.invokeExact(instance);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Non-static fields that are declared into a type, and their resolved accessors.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.12
+	 */
+	private static final class DeclaredFields {
+
+		private final Map<String, Field> fields;
+
+		private final ConcurrentMap<String, FieldHandles> handles = new ConcurrentHashMap<>();
+
+		DeclaredFields(Class<?> type) {
+			Map<String, Field> declaredFields;
+			try {
+				declaredFields = new HashMap<>();
+				for (final Field field : type.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						declaredFields.put(field.getName(), field);
+					}
+				}
+			} catch (Throwable ex) {
+				declaredFields = Collections.emptyMap();
+			}
+			this.fields = declaredFields;
+		}
+
+		/** Replies the accessors to the field with the given name.
+		 *
+		 * @param name the name of the field.
+		 * @return the accessors, or {@code null} if the field is not declared, or it cannot be accessed.
+		 */
+		FieldHandles getHandles(String name) {
+			FieldHandles fieldHandles = this.handles.get(name);
+			if (fieldHandles == null) {
+				final Field field = this.fields.get(name);
+				if (field == null) {
+					return null;
+				}
+				try {
+					fieldHandles = new FieldHandles(field);
+				} catch (Throwable ex) {
+					return null;
+				}
+				final FieldHandles previous = this.handles.putIfAbsent(name, fieldHandles);
+				if (previous != null) {
+					fieldHandles = previous;
+				}
+			}
+			return fieldHandles;
+		}
+
+	}
+
+}
@@ -45,6 +45,10 @@ public class Address extends SRESpecificDataContainer implements Serializable, C
 
 	private final SpaceID spaceId;
 
+	/** Cached hash code. The value {@code 0} means that the hash code is not yet computed.
+	 */
+	private transient int hash;
+
 	/**
 	 * Create an address based on the specified identifier.
 	 *
@@ -81,9 +85,14 @@ public class Address extends SRESpecificDataContainer implements Serializable, C
 	@Override
 	@Pure
 	public int hashCode() {
-		int result = 1;
-		result = 31 * result + ((this.participantId == null) ? 0 : this.participantId.hashCode());
-		result = 31 * result + ((this.spaceId == null) ? 0 : this.spaceId.hashCode());
+		// The address is immutable: the hash code is computed once.
+		int result = this.hash;
+		if (result == 0) {
+			result = 1;
+			result = 31 * result + ((this.participantId == null) ? 0 : this.participantId.hashCode());
+			result = 31 * result + ((this.spaceId == null) ? 0 : this.spaceId.hashCode());
+			this.hash = result;
+		}
 		return result;
 	}
 
@@ -113,7 +122,11 @@ public class Address extends SRESpecificDataContainer implements Serializable, C
 	 */
 	@Pure
 	public boolean equals(Address address) {
-		return address != null && this.participantId.equals(address.getUUID())
+		if (this == address) {
+			return true;
+		}
+		return address != null && hashCode() == address.hashCode()
+				&& this.participantId.equals(address.getUUID())
 				&& this.spaceId.equals(address.getSpaceID());
 	}
 
@@ -21,6 +21,7 @@
 
 package io.sarl.lang.core;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.eclipse.xtext.xbase.lib.Inline;
@@ -62,6 +63,30 @@ public interface EventSpace extends Space {
 	 */
 	void emit(UUID eventSource, Event event, Scope<Address> scope);
 
+	/**
+	 * Emits the events inside this space with the given scope. Only agents
+	 * matching the scope will receive the events.
+	 *
+	 * <p>The events are delivered in the iteration order of the given collection. An implementation
+	 * of the space could deliver the events in a single pass over the participants, in order to
+	 * share the scope matching and the routing of the events.
+	 *
+	 * <p>This function does not change the source of an event if it was set.
+	 *
+	 * <p>If a given event has no specified source, the emit function uses the
+	 * {@code eventSource} parameter to set the source's address.
+	 *
+	 * @param eventSource the sender of the events.
+	 * @param events the events to emit in the space.
+	 * @param scope the definition of the list of receivers of the events.
+	 * @since 0.12
+	 */
+	default void emitAll(UUID eventSource, Collection<? extends Event> events, Scope<Address> scope) {
+		for (final Event event : events) {
+			emit(eventSource, event, scope);
+		}
+	}
+
 	/**
 	 * Emits the event inside this space. All registered agents will receive the event.
 	 *
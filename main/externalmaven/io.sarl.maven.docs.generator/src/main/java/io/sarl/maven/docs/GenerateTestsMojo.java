@@ -39,6 +39,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -62,9 +64,11 @@ import org.eclipse.xtext.xbase.compiler.output.FakeTreeAppendable;
 import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
 import org.opentest4j.AssertionFailedError;
 import org.opentest4j.TestAbortedException;
 
@@ -252,12 +256,21 @@ public class GenerateTestsMojo extends AbstractDocumentationMojo {
 
 		final String displayName = toClassDisplayName(relativeInputFile, basicTestName, generalTestName);
 		
+		final boolean hasCompilations = !successCompilationComponents.isEmpty() || !failureCompilationComponents.isEmpty();
 		it.append("@").append(DisplayName.class).append("(\"").append(displayName).append("\")").newLine();
 		it.append("@").append(Tag.class).append("(\"documentation\")").newLine();
 		it.append("@").append(Tag.class).append("(\"doc\")").newLine();
+		if (hasCompilations) {
+			// A single instance of the test class is needed for starting the compilations before the tests
+			it.append("@").append(TestInstance.class).append("(").append(TestInstance.Lifecycle.class)
+				.append(".PER_CLASS)").newLine();
+		}
 		it.append("public class ").append(generalTestName).append(" extends ")
 			.append(BASE_PACKAGE).append(".AbstractBaseTest").append(" {").increaseIndentation().newLine();
-		
+
+		if (hasCompilations) {
+			generateCompilationStart(it, successCompilationComponents, failureCompilationComponents);
+		}
 		generateTestsForSuccessCode(it, importManager, relativeInputFile, successCompilationComponents);
 		generateTestsForFailureCode(it, importManager, relativeInputFile, failureCompilationComponents);
 		generateTestsForFacts(it, importManager, relativeInputFile, factualComponents);
@@ -272,6 +285,39 @@ public class GenerateTestsMojo extends AbstractDocumentationMojo {
 		//generateTraceFile(outputFolder, packageName, generalTestName, it.getTraceRegions());
 	}
 
+	/** Generate the function that starts the compilations of the independent snippets of a test class.
+	 * The snippets are compiled in parallel by the script executor, and each test waits for the
+	 * issues of its snippet.
+	 *
+	 * @param it the receiver of the code.
+	 * @param successCompilationComponents the snippets that must be compiled without error.
+	 * @param failureCompilationComponents the snippets that must be compiled with errors.
+	 */
+	private static void generateCompilationStart(ITreeAppendable it,
+			List<ValidationComponent> successCompilationComponents,
+			List<ValidationComponent> failureCompilationComponents) {
+		it.append("private final ").append(List.class).append("<").append(Future.class).append("<")
+			.append(List.class).append("<String>>> successCompilations = new ").append(ArrayList.class)
+			.append("<>();").newLine();
+		it.append("private final ").append(List.class).append("<").append(Future.class).append("<")
+			.append(List.class).append("<String>>> failureCompilations = new ").append(ArrayList.class)
+			.append("<>();").newLine();
+		it.append("@").append(BeforeAll.class).newLine();
+		it.append("public void startCompilations() {").increaseIndentation();
+		for (final ValidationComponent component : successCompilationComponents) {
+			it.newLine().append("this.successCompilations.add(getScriptExecutor().compileAsync(")
+				.append(str(component.getLinenoInSourceFile())).append(", "")
+				.append(str(component.getCode())).append(""));");
+		}
+		for (final ValidationComponent component : failureCompilationComponents) {
+			it.newLine().append("this.failureCompilations.add(getScriptExecutor().compileAsync(")
+				.append(str(component.getLinenoInSourceFile())).append(", "")
+				.append(str(component.getCode())).append(""));");
+		}
+		it.decreaseIndentation().newLine();
+		it.append("}").newLine();
+	}
+
 	private void generateTestsForSuccessCode(ITreeAppendable parent, ImportManager importManager,
 			File inputFile, List<ValidationComponent> successCompilationComponents) {
 		int i = 0;
@@ -299,9 +345,8 @@ public class GenerateTestsMojo extends AbstractDocumentationMojo {
 			it.append("@").append(Tag.class).append("(\"success_").append(Integer.toString(i)).append("\")").newLine();
 			it.append("public void ").append(actionName).append("() throws ")
 				.append(Exception.class).append(" {").increaseIndentation().newLine();
-			it.append(List.class).append("<String> issues = getScriptExecutor().compile(")
-				.append(str(component.getLinenoInSourceFile())).append(", \"")
-				.append(str(component.getCode())).append("\");").newLine();
+			it.append(List.class).append("<String> issues = getIssues(this.successCompilations.get(")
+				.append(Integer.toString(i)).append("));").newLine();
 			it.append("assertNoIssue(").append(str(component.getLinenoInSourceFile()))
 				.append(", issues);").decreaseIndentation().newLine();
 			it.append("}").newLine();
@@ -337,9 +382,8 @@ public class GenerateTestsMojo extends AbstractDocumentationMojo {
 			it.append("@").append(Tag.class).append("(\"failure_").append(Integer.toString(i)).append("\")").newLine();
 			it.append("public void ").append(actionName).append("() throws ")
 				.append(Exception.class).append(" {").increaseIndentation().newLine();
-			it.append(List.class).append("<String> issues = getScriptExecutor().compile(")
-				.append(str(component.getLinenoInSourceFile())).append(", \"")
-				.append(str(component.getCode())).append("\");").newLine();
+			it.append(List.class).append("<String> issues = getIssues(this.failureCompilations.get(")
+				.append(Integer.toString(i)).append("));").newLine();
 			it.append("assertIssues(").append(str(component.getLinenoInSourceFile()))
 				.append(", issues);").decreaseIndentation().newLine();
 			it.append("}").newLine();
@@ -526,6 +570,21 @@ public class GenerateTestsMojo extends AbstractDocumentationMojo {
 		it.append("return this.scriptExecutor;").decreaseIndentation().newLine();
 		it.append("}").newLine();
 
+		it.append("public static ").append(List.class).append("<String> getIssues(").append(Future.class)
+		.append("<").append(List.class).append("<String>> compilation) throws ").append(Exception.class).append(" {")
+		.increaseIndentation().newLine();
+		it.append("try {").increaseIndentation().newLine();
+		it.append("return compilation.get();").decreaseIndentation().newLine();
+		it.append("} catch (").append(ExecutionException.class).append(" exception) {").increaseIndentation().newLine();
+		it.append("final Throwable cause = exception.getCause();").newLine();
+		it.append("if (cause instanceof Exception) {").increaseIndentation().newLine();
+		it.append("throw (Exception) cause;").decreaseIndentation().newLine();
+		it.append("}").newLine();
+		it.append(Throwables.class).append(".throwIfUnchecked(cause);").newLine();
+		it.append("throw exception;").decreaseIndentation().newLine();
+		it.append("}").decreaseIndentation().newLine();
+		it.append("}").newLine();
+
 		it.append("public void assertNoIssue(int lineno, ").append(List.class).append("<String> issues) {")
 		.increaseIndentation().newLine();
 		it.append("if (issues != null && !issues.isEmpty()) {").increaseIndentation().newLine();
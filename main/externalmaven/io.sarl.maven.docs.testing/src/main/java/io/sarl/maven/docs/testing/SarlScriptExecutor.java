@@ -25,32 +25,24 @@ package io.sarl.maven.docs.testing;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
-import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Future;
 import java.util.function.UnaryOperator;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
-import com.google.common.io.Files;
 import com.google.inject.Injector;
-import org.arakhne.afc.vmutil.FileSystem;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.util.Strings;
 import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.interpreter.IEvaluationResult;
 import org.eclipse.xtext.xbase.interpreter.IExpressionInterpreter;
-import org.eclipse.xtext.xbase.validation.IssueCodes;
 
-import io.sarl.lang.compiler.batch.CleaningPolicy;
 import io.sarl.lang.compiler.batch.ICompilatedResourceReceiver;
-import io.sarl.lang.compiler.batch.SarlBatchCompiler;
 import io.sarl.lang.compiler.batch.SarlBatchCompilerUtils;
 import io.sarl.lang.interpreter.SarlExpressionInterpreter;
 import io.sarl.lang.sarl.SarlClass;
@@ -67,8 +59,6 @@ import io.sarl.lang.sarl.SarlScript;
  */
 public class SarlScriptExecutor implements ScriptExecutor {
 
-	private File tmpFolder = null;
-
 	private String bootClassPath = Strings.emptyIfNull(null);
 
 	private String classPath = Strings.emptyIfNull(null);
@@ -79,7 +69,9 @@ public class SarlScriptExecutor implements ScriptExecutor {
 
 	private String sourceVersion = Strings.emptyIfNull(null);
 
-	private Provider<SarlBatchCompiler> compilerProvider;
+	private SarlSnippetCompiler snippetCompiler;
+
+	private volatile boolean configured;
 
 	private Provider<IExpressionInterpreter> interpreterProvider;
 
@@ -89,23 +81,25 @@ public class SarlScriptExecutor implements ScriptExecutor {
 	 */
 	@Inject
 	public void setInjector(Injector injector) {
-		this.compilerProvider = injector.getProvider(SarlBatchCompiler.class);
+		this.snippetCompiler = injector.getInstance(SarlSnippetCompiler.class);
 		this.interpreterProvider = injector.getProvider(IExpressionInterpreter.class);
 	}
 
 	@Override
 	public void setTempFolder(File dirname) {
-		this.tmpFolder = dirname;
+		// The snippets are compiled in memory by the shared snippet compiler
 	}
 
 	@Override
 	public void setClassPath(String classpath) {
 		this.classPath = Strings.emptyIfNull(classpath);
+		this.configured = false;
 	}
 
 	@Override
 	public void setModulePath(String modulePath) {
 		this.modulePath = Strings.emptyIfNull(modulePath);
+		this.configured = false;
 	}
 
 	@Override
@@ -117,11 +111,13 @@ public class SarlScriptExecutor implements ScriptExecutor {
 	@Deprecated
 	public void setBootClassPath(String classpath) {
 		this.bootClassPath = Strings.emptyIfNull(classpath);
+		this.configured = false;
 	}
 
 	@Override
 	public void setJavaSourceVersion(String version) {
 		this.sourceVersion = Strings.emptyIfNull(version);
+		this.configured = false;
 	}
 
 	@Override
@@ -129,73 +125,38 @@ public class SarlScriptExecutor implements ScriptExecutor {
 		return SarlBatchCompilerUtils.isModuleSupported(this.sourceVersion);
 	}
 
-	private File createRootFolder() throws IOException {
-		return FileSystem.createTempDirectory("sarldocs", null, this.tmpFolder); //$NON-NLS-1$
-	}
-
-	private static File createSourceFolder(File root) {
-		return new File(root, "src"); //$NON-NLS-1$
-	}
-
-	private static File createGenFolder(File root) {
-		return new File(root, "src-gen"); //$NON-NLS-1$
-	}
-
-	private static File createBinFolder(File root) {
-		return new File(root, "bin"); //$NON-NLS-1$
+	/** Replies the snippet compiler. The compiler is configured only when the configuration
+	 * of this executor has changed since the last compilation.
+	 *
+	 * @return the snippet compiler.
+	 */
+	private SarlSnippetCompiler getSnippetCompiler() {
+		final SarlSnippetCompiler compiler = this.snippetCompiler;
+		if (!this.configured) {
+			compiler.configure(this.classPath, this.modulePath, this.bootClassPath, this.sourceVersion);
+			this.configured = true;
+		}
+		return compiler;
 	}
 
-	private static File createFile(File sourceFolder, String content) throws IOException {
-		File file = new File(sourceFolder, "test.sarl"); //$NON-NLS-1$
-		file.getParentFile().mkdirs();
-		Files.write(content.getBytes(), file);
-		return file;
+	/** {@inheritDoc}
+	 *
+	 * <p>The code is compiled in memory; no file is written. Consequently, this function
+	 * always replies {@code null}.
+	 */
+	@Override
+	public CompiledFile compile(int lineno, String code, List<String> issues, ICompilatedResourceReceiver receiver) throws Exception {
+		getSnippetCompiler().compile(lineno, code, issues, receiver);
+		return null;
 	}
 
-	@SuppressWarnings("deprecation")
+	/** {@inheritDoc}
+	 *
+	 * <p>The code is compiled in memory on the bounded pool of threads of the shared snippet compiler.
+	 */
 	@Override
-	public CompiledFile compile(int lineno, String code, List<String> issues, ICompilatedResourceReceiver receiver) throws Exception {
-		File rootFolder = createRootFolder();
-		File sourceFolder = createSourceFolder(rootFolder);
-		File genFolder = createGenFolder(rootFolder);
-		File binFolder = createBinFolder(rootFolder);
-		final SarlBatchCompiler compiler = this.compilerProvider.get();
-		compiler.setBasePath(rootFolder.getAbsolutePath());
-		compiler.addSourcePath(sourceFolder);
-		compiler.setClassOutputPath(binFolder);
-		compiler.setOutputPath(genFolder);
-		compiler.setGenerateGeneratedAnnotation(false);
-		compiler.setGenerateInlineAnnotation(false);
-		compiler.setGenerateSyntheticSuppressWarnings(true);
-		compiler.setCleaningPolicy(CleaningPolicy.NO_CLEANING);
-		compiler.setClassPath(this.classPath);
-		if (isModuleSupported()) {
-			compiler.setModulePath(this.modulePath);
-		} else {
-			compiler.setBootClassPath(this.bootClassPath);
-		}
-		compiler.setJavaSourceVersion(this.sourceVersion);
-		compiler.setAllWarningSeverities(Severity.IGNORE);
-		compiler.setWarningSeverity(IssueCodes.DEPRECATED_MEMBER_REFERENCE, Severity.ERROR);
-		compiler.setJavaCompilerVerbose(false);
-		final Logger nopLogger = Logger.getAnonymousLogger();
-		nopLogger.setLevel(Level.OFF);
-		compiler.setLogger(nopLogger);
-		if (issues != null) {
-			compiler.addIssueMessageListener((issue, uri, message) -> {
-				if (issue.isSyntaxError() || issue.getSeverity() == Severity.ERROR) {
-					final Integer line = issue.getLineNumber();
-					final int issueLine = (line == null ? 0 : line.intValue()) + lineno;
-					issues.add(MessageFormat.format(Messages.SarlScriptExecutor_1, message, issueLine));
-				}
-			});
-		}
-		if (receiver != null) {
-			compiler.addCompiledResourceReceiver(receiver);
-		}
-		File file = createFile(sourceFolder, code);
-		compiler.compile();
-		return new CompiledFile(rootFolder, file);
+	public Future<List<String>> compileAsync(int lineno, String code) {
+		return getSnippetCompiler().compileAsync(lineno, code);
 	}
 
 	@Override
@@ -203,39 +164,33 @@ public class SarlScriptExecutor implements ScriptExecutor {
 		final List<String> issues = new ArrayList<>();
 		final Collection<Resource> resources = new ArrayList<>();
 
-		final CompiledFile outFile = compile(lineno,
+		compile(lineno,
 				"package x.x.x;\n" //$NON-NLS-1$
 				+ "class ____Fake_Class____ {\nstatic var __fake_attr__ : Object = {\n" //$NON-NLS-1$
 				+ code + ";\n};\n}", //$NON-NLS-1$
 				issues, (it) -> {
 					resources.add(it);
 				});
-		try {
-			assertNoIssue(lineno, issues);
-			if (resources.isEmpty()) {
-				throw new NoXtextResourceException(lineno);
-			}
-			for (Resource resource : resources) {
-				SarlScript script = (SarlScript) resource.getContents().get(0);
-				SarlClass clazz = (SarlClass) script.getXtendTypes().get(0);
-				SarlField field = (SarlField) clazz.getMembers().get(0);
-				XExpression xexpression = field.getInitialValue();
-				final IExpressionInterpreter interpreter = this.interpreterProvider.get();
-				if (interpreter instanceof SarlExpressionInterpreter && this.classLoaderBuilder != null) {
-					final SarlExpressionInterpreter exprEvaluator = (SarlExpressionInterpreter) interpreter;
-					final ClassLoader expandClassLoader = exprEvaluator.expandClassLoader(this.classLoaderBuilder);
-					System.getProperties().put(ScriptExecutor.PROP_CLASS_LOADER, expandClassLoader);
-				}
-				IEvaluationResult result = interpreter.evaluate(xexpression);
-				if (result.getException() == null) {
-					return result.getResult();
-				}
-				throw new RuntimeException(result.getException());
+		assertNoIssue(lineno, issues);
+		if (resources.isEmpty()) {
+			throw new NoXtextResourceException(lineno);
+		}
+		for (Resource resource : resources) {
+			SarlScript script = (SarlScript) resource.getContents().get(0);
+			SarlClass clazz = (SarlClass) script.getXtendTypes().get(0);
+			SarlField field = (SarlField) clazz.getMembers().get(0);
+			XExpression xexpression = field.getInitialValue();
+			final IExpressionInterpreter interpreter = this.interpreterProvider.get();
+			if (interpreter instanceof SarlExpressionInterpreter && this.classLoaderBuilder != null) {
+				final SarlExpressionInterpreter exprEvaluator = (SarlExpressionInterpreter) interpreter;
+				final ClassLoader expandClassLoader = exprEvaluator.expandClassLoader(this.classLoaderBuilder);
+				System.getProperties().put(ScriptExecutor.PROP_CLASS_LOADER, expandClassLoader);
 			}
-		} finally {
-			if (outFile != null && outFile.getRootFolder() != null) {
-				FileSystem.delete(outFile.getRootFolder());
+			IEvaluationResult result = interpreter.evaluate(xexpression);
+			if (result.getException() == null) {
+				return result.getResult();
 			}
+			throw new RuntimeException(result.getException());
 		}
 		return null;
 	}
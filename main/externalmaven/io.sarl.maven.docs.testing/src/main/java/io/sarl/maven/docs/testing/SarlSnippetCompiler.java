@@ -0,0 +1,413 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.maven.docs.testing;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
+import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.JavaVersion;
+import org.eclipse.xtext.util.StringInputStream;
+import org.eclipse.xtext.util.Strings;
+import org.eclipse.xtext.util.internal.AlternateJdkLoader;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
+import org.eclipse.xtext.xbase.compiler.GeneratorConfigProvider;
+import org.eclipse.xtext.xbase.compiler.IGeneratorConfigProvider;
+import org.eclipse.xtext.xbase.validation.IssueCodes;
+
+import io.sarl.lang.compiler.GeneratorConfig2;
+import io.sarl.lang.compiler.GeneratorConfigProvider2;
+import io.sarl.lang.compiler.IGeneratorConfigProvider2;
+import io.sarl.lang.compiler.batch.ICompilatedResourceReceiver;
+import io.sarl.lang.compiler.batch.SarlBatchCompilerUtils;
+import io.sarl.lang.validation.IConfigurableIssueSeveritiesProvider;
+
+/** Shared and warm compiler of the SARL snippets that are extracted from the documentation.
+ *
+ * <p>In opposite to the {@link io.sarl.lang.compiler.batch.SarlBatchCompiler}, this compiler
+ * does not write the snippets on the file system, and does not generate nor compile the Java code.
+ * It parses, links and validates the snippets in memory. The class path is resolved once, and
+ * the class loader that is built from it is shared by all the compilations. In this way, the
+ * JVM types that are loaded for a snippet are already available for the next snippets.
+ *
+ * <p>This compiler is thread-safe: each compilation has its own resource set. When the
+ * configuration is changed, the class loader of the previous configuration is closed only
+ * when the compilations that are using it are finished. The independent snippets could be
+ * compiled in parallel with {@link #compileAsync(int, String)}, on a pool of daemon threads
+ * that is bounded by the number of available processors.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+@Singleton
+public class SarlSnippetCompiler {
+
+	private static final String SNIPPET_URI_PREFIX = "__synthetic_snippet"; //$NON-NLS-1$
+
+	private static final String SNIPPET_URI_POSTFIX = ".sarl"; //$NON-NLS-1$
+
+	private static final String THREAD_NAME_PREFIX = "sarl-snippet-compiler-"; //$NON-NLS-1$
+
+	private final AtomicLong snippetCount = new AtomicLong();
+
+	private final AtomicLong threadCount = new AtomicLong();
+
+	@Inject
+	private Provider<XtextResourceSet> resourceSetProvider;
+
+	@Inject
+	private IndexedJvmTypeAccess indexedJvmTypeAccess;
+
+	@Inject
+	private IResourceValidator resourceValidator;
+
+	@Inject
+	private IGeneratorConfigProvider generatorConfigProvider;
+
+	@Inject
+	private IGeneratorConfigProvider2 generatorConfigProvider2;
+
+	private volatile Configuration configuration;
+
+	private volatile ExecutorService executor;
+
+	/** Change the provider of issue severities.
+	 * The severities are configured once, when the compiler is created: all the issues are ignored,
+	 * except the references to deprecated members that are errors.
+	 *
+	 * @param provider the provider of the issue severities.
+	 */
+	@Inject
+	public void setIssueSeveritiesProvider(IConfigurableIssueSeveritiesProvider provider) {
+		provider.setAllSeverities(Severity.IGNORE);
+		provider.setSeverity(IssueCodes.DEPRECATED_MEMBER_REFERENCE, Severity.ERROR);
+	}
+
+	/** Change the configuration of the compiler.
+	 * If the given configuration is the same as the current configuration, the compiler
+	 * keeps its pre-resolved class path.
+	 *
+	 * @param classPath the class path.
+	 * @param modulePath the module path.
+	 * @param bootClassPath the boot class path, that is used only if the modules are not supported.
+	 * @param javaVersion the version of the Java sources.
+	 */
+	public synchronized void configure(String classPath, String modulePath, String bootClassPath, String javaVersion) {
+		final Configuration current = this.configuration;
+		if (current == null || !current.isSame(classPath, modulePath, bootClassPath, javaVersion)) {
+			this.configuration = new Configuration(classPath, modulePath, bootClassPath, javaVersion,
+					this.generatorConfigProvider.get(null), this.generatorConfigProvider2.get(null));
+			if (current != null) {
+				// The class loader is closed when the running compilations are finished
+				current.retire();
+			}
+		}
+	}
+
+	/** Replies the current configuration, and mark it as used by a compilation.
+	 *
+	 * @return the configuration.
+	 */
+	private Configuration acquireConfiguration() {
+		Configuration config = this.configuration;
+		while (config != null && !config.acquire()) {
+			// The configuration was retired and closed in parallel; the new configuration must be used
+			config = this.configuration;
+		}
+		if (config == null) {
+			throw new IllegalStateException(Messages.SarlSnippetCompiler_0);
+		}
+		return config;
+	}
+
+	/** Compile the given snippet and replies the issues.
+	 *
+	 * @param lineno the line number where the code is located.
+	 * @param code the code to compile.
+	 * @param issues the issues that were found in the code. It may be {@code null}.
+	 * @param receiver the listener on the succesfully compiled resources. It may be {@code null}.
+	 */
+	public void compile(int lineno, String code, List<String> issues, ICompilatedResourceReceiver receiver) {
+		final Configuration config = acquireConfiguration();
+		try {
+			compile(config, lineno, code, issues, receiver);
+		} finally {
+			config.release();
+		}
+	}
+
+	/** Compile the given snippet asynchronously and replies the issues.
+	 * The compilation is run on the bounded pool of threads of this compiler.
+	 *
+	 * @param lineno the line number where the code is located.
+	 * @param code the code to compile.
+	 * @return the future issues that were found in the code.
+	 */
+	public Future<List<String>> compileAsync(int lineno, String code) {
+		final Configuration config = acquireConfiguration();
+		try {
+			return getExecutor().submit(() -> {
+				try {
+					final List<String> issues = new ArrayList<>();
+					compile(config, lineno, code, issues, null);
+					return issues;
+				} finally {
+					config.release();
+				}
+			});
+		} catch (Throwable exception) {
+			config.release();
+			throw exception;
+		}
+	}
+
+	/** Replies the pool of threads that is used for compiling the snippets in parallel.
+	 *
+	 * @return the pool of threads.
+	 */
+	private ExecutorService getExecutor() {
+		ExecutorService service = this.executor;
+		if (service == null) {
+			synchronized (this) {
+				service = this.executor;
+				if (service == null) {
+					service = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), (runnable) -> {
+						final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + this.threadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+					this.executor = service;
+				}
+			}
+		}
+		return service;
+	}
+
+	private void compile(Configuration config, int lineno, String code, List<String> issues,
+			ICompilatedResourceReceiver receiver) {
+		final XtextResourceSet resourceSet = this.resourceSetProvider.get();
+		if (this.generatorConfigProvider instanceof GeneratorConfigProvider) {
+			((GeneratorConfigProvider) this.generatorConfigProvider).install(resourceSet, config.getGeneratorConfig());
+		}
+		if (this.generatorConfigProvider2 instanceof GeneratorConfigProvider2) {
+			((GeneratorConfigProvider2) this.generatorConfigProvider2).install(resourceSet, config.getGeneratorConfig2());
+		}
+		config.install(resourceSet, this.indexedJvmTypeAccess);
+		final URI uri = URI.createURI(SNIPPET_URI_PREFIX + this.snippetCount.incrementAndGet() + SNIPPET_URI_POSTFIX);
+		final Resource resource = resourceSet.createResource(uri);
+		try (StringInputStream input = new StringInputStream(code)) {
+			resource.load(input, null);
+		} catch (IOException exception) {
+			throw new RuntimeException(exception);
+		}
+		EcoreUtil.resolveAll(resource);
+		EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+		final List<Issue> result = this.resourceValidator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+		boolean hasError = false;
+		for (final Issue issue : result) {
+			if (issue.isSyntaxError() || issue.getSeverity() == Severity.ERROR) {
+				hasError = true;
+				if (issues != null) {
+					final Integer line = issue.getLineNumber();
+					final int issueLine = (line == null ? 0 : line.intValue()) + lineno;
+					final String message = MessageFormat.format(Messages.SarlSnippetCompiler_1,
+							issue.getMessage(), issue.getCode());
+					issues.add(MessageFormat.format(Messages.SarlScriptExecutor_1, message, issueLine));
+				}
+			}
+		}
+		if (!hasError && receiver != null) {
+			receiver.receiveCompiledResource(resource);
+		}
+	}
+
+	/** Configuration of the snippet compiler with its pre-resolved class path.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.12
+	 */
+	private static final class Configuration {
+
+		private final String classPath;
+
+		private final String modulePath;
+
+		private final String bootClassPath;
+
+		private final String javaVersion;
+
+		private final GeneratorConfig generatorConfig;
+
+		private final GeneratorConfig2 generatorConfig2;
+
+		private final URLClassLoader classLoader;
+
+		private int users;
+
+		private boolean retired;
+
+		private boolean closed;
+
+		Configuration(String classPath, String modulePath, String bootClassPath, String javaVersion,
+				GeneratorConfig generatorConfig, GeneratorConfig2 generatorConfig2) {
+			this.classPath = Strings.emptyIfNull(classPath);
+			this.modulePath = Strings.emptyIfNull(modulePath);
+			this.bootClassPath = Strings.emptyIfNull(bootClassPath);
+			this.javaVersion = Strings.emptyIfNull(javaVersion);
+			this.generatorConfig = generatorConfig;
+			this.generatorConfig2 = generatorConfig2;
+			final JavaVersion version = JavaVersion.fromQualifier(this.javaVersion);
+			if (version != null) {
+				this.generatorConfig.setJavaSourceVersion(version);
+			}
+			this.generatorConfig.setGenerateExpressions(true);
+			this.generatorConfig.setGenerateSyntheticSuppressWarnings(true);
+			this.generatorConfig.setGenerateGeneratedAnnotation(false);
+			this.generatorConfig2.setGenerateInlineAnnotation(false);
+			final boolean modules = SarlBatchCompilerUtils.isModuleSupported(this.javaVersion);
+			final List<URL> urls = new ArrayList<>();
+			addUrls(urls, this.classPath);
+			final ClassLoader parent;
+			if (modules) {
+				addUrls(urls, this.modulePath);
+				parent = SarlSnippetCompiler.class.getClassLoader();
+			} else if (!Strings.isEmpty(this.bootClassPath)) {
+				parent = new AlternateJdkLoader(toFiles(this.bootClassPath));
+			} else {
+				parent = SarlSnippetCompiler.class.getClassLoader();
+			}
+			this.classLoader = new URLClassLoader(urls.toArray(new URL[urls.size()]), parent);
+		}
+
+		private static List<File> toFiles(String path) {
+			final List<File> files = new ArrayList<>();
+			for (final String element : Strings.split(path, File.pathSeparator)) {
+				if (!Strings.isEmpty(element)) {
+					files.add(new File(element));
+				}
+			}
+			return files;
+		}
+
+		private static void addUrls(List<URL> urls, String path) {
+			for (final File file : toFiles(path)) {
+				try {
+					urls.add(file.toURI().toURL());
+				} catch (MalformedURLException exception) {
+					throw new IllegalArgumentException(exception);
+				}
+			}
+		}
+
+		boolean isSame(String classPath, String modulePath, String bootClassPath, String javaVersion) {
+			return Objects.equals(this.classPath, Strings.emptyIfNull(classPath))
+					&& Objects.equals(this.modulePath, Strings.emptyIfNull(modulePath))
+					&& Objects.equals(this.bootClassPath, Strings.emptyIfNull(bootClassPath))
+					&& Objects.equals(this.javaVersion, Strings.emptyIfNull(javaVersion));
+		}
+
+		GeneratorConfig getGeneratorConfig() {
+			return this.generatorConfig;
+		}
+
+		GeneratorConfig2 getGeneratorConfig2() {
+			return this.generatorConfig2;
+		}
+
+		void install(XtextResourceSet resourceSet, IndexedJvmTypeAccess indexedJvmTypeAccess) {
+			new ClasspathTypeProvider(this.classLoader, resourceSet, indexedJvmTypeAccess, null);
+			resourceSet.setClasspathURIContext(this.classLoader);
+		}
+
+		/** Mark this configuration as used by a compilation.
+		 *
+		 * @return {@code true} if the configuration could be used; {@code false} if it is closed.
+		 */
+		synchronized boolean acquire() {
+			if (this.closed) {
+				return false;
+			}
+			++this.users;
+			return true;
+		}
+
+		/** Mark this configuration as not used anymore by a compilation.
+		 */
+		synchronized void release() {
+			--this.users;
+			closeIfUnused();
+		}
+
+		/** Mark this configuration as replaced by another one. The class loader is
+		 * closed when no more compilation is using it.
+		 */
+		synchronized void retire() {
+			this.retired = true;
+			closeIfUnused();
+		}
+
+		private void closeIfUnused() {
+			if (this.retired && this.users <= 0 && !this.closed) {
+				this.closed = true;
+				try {
+					this.classLoader.close();
+				} catch (IOException exception) {
+					// Ignore the exception because the class loader is not used anymore
+				}
+			}
+		}
+
+	}
+
+}
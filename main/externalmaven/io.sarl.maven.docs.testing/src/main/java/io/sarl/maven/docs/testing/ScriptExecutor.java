@@ -24,6 +24,8 @@ package io.sarl.maven.docs.testing;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.function.UnaryOperator;
 
 import com.google.inject.ImplementedBy;
@@ -126,13 +128,32 @@ public interface ScriptExecutor {
 		return issues;
 	}
 
+	/** Compile the given code asynchronously and replies the issues.
+	 * The independent snippets may be compiled in parallel with this function.
+	 * By default, the code is compiled by the calling thread.
+	 *
+	 * @param lineno the line number where the code is located.
+	 * @param code the code to compile.
+	 * @return the future issues.
+	 * @since 0.12
+	 */
+	default Future<List<String>> compileAsync(int lineno, String code) {
+		final CompletableFuture<List<String>> future = new CompletableFuture<>();
+		try {
+			future.complete(compile(lineno, code));
+		} catch (Throwable exception) {
+			future.completeExceptionally(exception);
+		}
+		return future;
+	}
+
 	/** Compile the given code and replies the issues.
 	 *
 	 * @param lineno the line number where the code is located.
 	 * @param code the code to compile.
 	 * @param issues the issues that were found in the code.
 	 * @param receiver the listener on the succesfully compiled resources.
-	 * @return the file which contains the compiled code.
+	 * @return the file which contains the compiled code, or {@code null} if the code is not written into a file.
 	 * @throws Exception if compilation failed.
 	 */
 	CompiledFile compile(int lineno, String code, List<String> issues, ICompilatedResourceReceiver receiver) throws Exception;
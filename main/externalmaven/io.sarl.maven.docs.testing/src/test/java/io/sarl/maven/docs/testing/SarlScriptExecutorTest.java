@@ -0,0 +1,127 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.maven.docs.testing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Test of the SARL script executor.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+@SuppressWarnings("all")
+@DisplayName("SarlScriptExecutor")
+public class SarlScriptExecutorTest {
+
+	private static final String VALID_CODE = "class A {\n def fct : int {\n 1\n }\n}"; //$NON-NLS-1$
+
+	private static final String INVALID_CODE = "class A {\n def fct : int {\n \"a\"\n }\n}"; //$NON-NLS-1$
+
+	private ScriptExecutor executor;
+
+	@BeforeEach
+	public void setUp() {
+		this.executor = DocumentationSetup.doSetup().getInstance(ScriptExecutor.class);
+		this.executor.setJavaSourceVersion("1.8"); //$NON-NLS-1$
+	}
+
+	@Test
+	@DisplayName("compile valid code")
+	public void compile_valid() throws Exception {
+		final List<String> issues = new ArrayList<>();
+		final List<Resource> resources = new ArrayList<>();
+		assertNull(this.executor.compile(1, VALID_CODE, issues, it -> resources.add(it)));
+		assertTrue(issues.isEmpty(), issues.toString());
+		assertEquals(1, resources.size());
+	}
+
+	@Test
+	@DisplayName("compile invalid code")
+	public void compile_invalid() throws Exception {
+		final List<String> issues = new ArrayList<>();
+		final List<Resource> resources = new ArrayList<>();
+		assertNull(this.executor.compile(1, INVALID_CODE, issues, it -> resources.add(it)));
+		assertFalse(issues.isEmpty());
+		assertTrue(resources.isEmpty());
+	}
+
+	@Test
+	@DisplayName("compile with same configuration")
+	public void compile_sameConfiguration() throws Exception {
+		assertTrue(this.executor.compile(1, VALID_CODE).isEmpty());
+		assertTrue(this.executor.compile(1, VALID_CODE).isEmpty());
+		assertFalse(this.executor.compile(1, INVALID_CODE).isEmpty());
+	}
+
+	@Test
+	@DisplayName("compile after configuration change")
+	public void compile_configurationChanged() throws Exception {
+		assertTrue(this.executor.compile(1, VALID_CODE).isEmpty());
+		this.executor.setJavaSourceVersion("11"); //$NON-NLS-1$
+		assertTrue(this.executor.compile(1, VALID_CODE).isEmpty());
+		this.executor.setJavaSourceVersion("1.8"); //$NON-NLS-1$
+		assertTrue(this.executor.compile(1, VALID_CODE).isEmpty());
+		assertFalse(this.executor.compile(1, INVALID_CODE).isEmpty());
+	}
+
+	@Test
+	@DisplayName("compile with a compilation running during the configuration change")
+	public void compile_configurationChangedWhileCompiling() throws Exception {
+		final ScriptExecutor other = DocumentationSetup.doSetup().getInstance(ScriptExecutor.class);
+		other.setJavaSourceVersion("11"); //$NON-NLS-1$
+		final List<String> issues = new ArrayList<>();
+		final List<String> innerIssues = new ArrayList<>();
+		// The second executor changes the configuration of the shared compiler while the first
+		// compilation is still running
+		this.executor.compile(1, VALID_CODE, issues, it -> {
+			try {
+				innerIssues.addAll(other.compile(1, VALID_CODE));
+			} catch (Exception exception) {
+				throw new RuntimeException(exception);
+			}
+		});
+		assertTrue(issues.isEmpty(), issues.toString());
+		assertTrue(innerIssues.isEmpty(), innerIssues.toString());
+		assertTrue(this.executor.compile(1, VALID_CODE).isEmpty());
+	}
+
+	@Test
+	@DisplayName("execute")
+	public void execute() throws Exception {
+		assertEquals(Integer.valueOf(3), this.executor.execute(1, "1 + 2")); //$NON-NLS-1$
+	}
+
+}
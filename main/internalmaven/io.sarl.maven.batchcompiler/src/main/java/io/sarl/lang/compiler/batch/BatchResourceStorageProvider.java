@@ -0,0 +1,262 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageProviderAdapter;
+import org.eclipse.xtext.resource.persistence.StorageAwareResource;
+
+/** Provider of the binary storages of the resources for the SARL batch compiler.
+ *
+ * <p>A storage file is searched in the output folder of the generated Java code, with the
+ * name pattern {@code .Type.sarlbin}, where {@code Type} is the name of the SARL file.
+ * If it is not found, the storage file is searched on the class path, e.g. within the
+ * jar files of the SARL libraries.
+ *
+ * <p>A storage file from the output folder is used only if it is newer than the
+ * source file and the class path elements. The batch compiler uses these storage files only
+ * when all the SARL files of the project are up-to-date. Storage files from the class path are
+ * always considered as up-to-date because they are packaged together with their source
+ * files.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+public class BatchResourceStorageProvider extends AdapterImpl implements ResourceStorageProviderAdapter {
+
+	private static final String STORAGE_FILE_PREFIX = "."; //$NON-NLS-1$
+
+	private static final String STORAGE_FILE_POSTFIX = "bin"; //$NON-NLS-1$
+
+	private static final String CLASSPATH_SCHEME = "classpath"; //$NON-NLS-1$
+
+	private static final String ARCHIVE_SEPARATOR = "!/"; //$NON-NLS-1$
+
+	private final List<File> sourceFolders;
+
+	private final File outputFolder;
+
+	private final long classPathTimestamp;
+
+	private final Supplier<ClassLoader> classLoader;
+
+	/** Constructor.
+	 *
+	 * @param sourceFolders the source folders of the compiled project.
+	 * @param outputFolder the folder in which the storage files of the project are generated.
+	 * @param classPathTimestamp the date of the last change in the class path. A storage file that is
+	 *     older than this date is considered as out-dated.
+	 * @param classLoader the provider of the class loader that is used for searching storage files on the
+	 *     class path. It may reply {@code null}.
+	 */
+	public BatchResourceStorageProvider(List<File> sourceFolders, File outputFolder, long classPathTimestamp,
+			Supplier<ClassLoader> classLoader) {
+		this.sourceFolders = sourceFolders;
+		this.outputFolder = outputFolder;
+		this.classPathTimestamp = classPathTimestamp;
+		this.classLoader = classLoader;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == BatchResourceStorageProvider.class || type == ResourceStorageProviderAdapter.class;
+	}
+
+	@Override
+	public ResourceStorageLoadable getResourceStorageLoadable(StorageAwareResource resource) {
+		final URI uri = resource.getURI();
+		final File storageFile = getUpToDateStorageFile(uri);
+		if (storageFile != null) {
+			return resource.getResourceStorageFacade().createResourceStorageLoadable(
+					new LazyInputStream(() -> new FileInputStream(storageFile)));
+		}
+		final URL storageUrl = getLibraryStorageURL(uri);
+		if (storageUrl != null) {
+			return resource.getResourceStorageFacade().createResourceStorageLoadable(
+					new LazyInputStream(() -> storageUrl.openStream()));
+		}
+		return null;
+	}
+
+	/** Replies if the storage file of the given source file exists and is up-to-date.
+	 *
+	 * @param uri the URI of the source file.
+	 * @return {@code true} if the storage file could be used in place of the source file.
+	 */
+	public boolean isUpToDate(URI uri) {
+		return getUpToDateStorageFile(uri) != null;
+	}
+
+	/** Replies the storage file for the given source file if this storage file is up-to-date.
+	 *
+	 * @param uri the URI of the source file.
+	 * @return the storage file, or {@code null} if there is no up-to-date storage file.
+	 */
+	protected File getUpToDateStorageFile(URI uri) {
+		if (!uri.isFile() || this.outputFolder == null) {
+			return null;
+		}
+		final File sourceFile = new File(uri.toFileString());
+		final String relativePath = getRelativePath(sourceFile);
+		if (relativePath == null) {
+			return null;
+		}
+		final File storageFile = new File(this.outputFolder, relativePath);
+		final long storageTimestamp = storageFile.lastModified();
+		// lastModified() replies 0 when the file does not exist
+		if (storageTimestamp == 0L || storageTimestamp < sourceFile.lastModified()
+				|| storageTimestamp < this.classPathTimestamp) {
+			return null;
+		}
+		return storageFile;
+	}
+
+	/** Replies the URL of the storage file in the libraries for the given resource.
+	 *
+	 * @param uri the URI of the resource.
+	 * @return the URL of the storage file, or {@code null} if the storage file is not on the class path.
+	 */
+	protected URL getLibraryStorageURL(URI uri) {
+		final ClassLoader loader = this.classLoader == null ? null : this.classLoader.get();
+		if (loader == null) {
+			return null;
+		}
+		final String path;
+		if (uri.isArchive()) {
+			final String fullPath = uri.toString();
+			final int index = fullPath.lastIndexOf(ARCHIVE_SEPARATOR);
+			if (index < 0) {
+				return null;
+			}
+			path = fullPath.substring(index + ARCHIVE_SEPARATOR.length());
+		} else if (CLASSPATH_SCHEME.equals(uri.scheme())) {
+			path = uri.path();
+		} else {
+			return null;
+		}
+		final URI relative = URI.createURI(path);
+		final String storagePath = toStoragePath(relative.trimSegments(1).toString(), relative.lastSegment());
+		return loader.getResource(storagePath.startsWith("/") ? storagePath.substring(1) : storagePath); //$NON-NLS-1$
+	}
+
+	private String getRelativePath(File sourceFile) {
+		final String absoluteSource = sourceFile.getAbsolutePath();
+		for (final File folder : this.sourceFolders) {
+			final String absoluteFolder = folder.getAbsolutePath() + File.separator;
+			if (absoluteSource.startsWith(absoluteFolder)) {
+				final File relative = new File(absoluteSource.substring(absoluteFolder.length()));
+				final String parent = relative.getParent();
+				return toStoragePath(parent == null ? null : parent.replace(File.separatorChar, '/'), relative.getName());
+			}
+		}
+		return null;
+	}
+
+	private static String toStoragePath(String parent, String filename) {
+		final StringBuilder path = new StringBuilder();
+		if (parent != null && !parent.isEmpty()) {
+			path.append(parent).append('/');
+		}
+		path.append(STORAGE_FILE_PREFIX).append(filename).append(STORAGE_FILE_POSTFIX);
+		return path.toString();
+	}
+
+	/** Provider of input stream.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.12
+	 */
+	@FunctionalInterface
+	private interface InputStreamProvider {
+
+		InputStream open() throws IOException;
+
+	}
+
+	/** Input stream that is opening the underlying stream on the first reading.
+	 * It avoids to keep open the storage files that are never read by Xtext.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.12
+	 */
+	private static class LazyInputStream extends InputStream {
+
+		private InputStreamProvider provider;
+
+		private InputStream delegate;
+
+		LazyInputStream(InputStreamProvider provider) {
+			this.provider = provider;
+		}
+
+		private InputStream getDelegate() throws IOException {
+			if (this.delegate == null) {
+				this.delegate = this.provider.open();
+				this.provider = null;
+			}
+			return this.delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return getDelegate().read();
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			return getDelegate().read(buffer, offset, length);
+		}
+
+		@Override
+		public int available() throws IOException {
+			return getDelegate().available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.delegate != null) {
+				this.delegate.close();
+			}
+		}
+
+	}
+
+}
@@ -33,6 +33,7 @@ import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -40,9 +41,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
@@ -87,6 +90,7 @@ import org.eclipse.xtext.resource.FileExtensionProvider;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.Files;
@@ -108,6 +112,7 @@ import org.eclipse.xtext.xbase.resource.BatchLinkableResource;
 import org.eclipse.xtext.xbase.resource.BatchLinkableResourceStorageWritable;
 
 import io.sarl.lang.SARLConfig;
+import io.sarl.lang.SARLVersion;
 import io.sarl.lang.compiler.GeneratorConfig2;
 import io.sarl.lang.compiler.GeneratorConfigProvider2;
 import io.sarl.lang.compiler.IGeneratorConfigProvider2;
@@ -135,6 +140,13 @@ public class SarlBatchCompiler {
 
 	private static final String STUB_FOLDER_PREFIX = "stubs"; //$NON-NLS-1$
 
+	private static final String STORAGE_FINGERPRINT_FILENAME = ".sarlbin.fingerprint"; //$NON-NLS-1$
+
+	private static final String[] CLASS_PATH_FOLDER_MARKERS = {
+		"META-INF/MANIFEST.MF", //$NON-NLS-1$
+		"META-INF/maven", //$NON-NLS-1$
+	};
+
 	private static final String INTERNAL_ERROR_CODE = SarlBatchCompiler.class.getName() + ".internal_error"; //$NON-NLS-1$
 
 	private static final Predicate<IExtraLanguageContribution> DISABLER = it -> false;
@@ -163,6 +175,10 @@ public class SarlBatchCompiler {
 
 	private boolean writeStorageFiles = true;
 
+	private boolean loadStorageFiles;
+
+	private final List<String> storageSourceFiles = new ArrayList<>();
+
 	private boolean verbose;
 
 	private boolean enableJavaPostCompilation;
@@ -543,6 +559,43 @@ public class SarlBatchCompiler {
 		this.writeStorageFiles = writeStorageFiles;
 	}
 
+	/** Replies if the storage files must be loaded in place of the unchanged SARL files.
+	 *
+	 * <p>When this flag is enabled and all the SARL files have an up-to-date storage file
+	 * in the output folder, the SARL files are not parsed, linked and inferred again.
+	 * Their content is restored from the storage files, and their Java code is not regenerated.
+	 * A storage file is out-dated when it is older than its source file or than the class path,
+	 * or when it was generated with a different compiler configuration or set of SARL files.
+	 * If a single storage file is out-dated, all the SARL files are compiled from their source code.
+	 * The storage files of the libraries are always searched on the class path.
+	 *
+	 * @return <code>true</code> for loading the storage files.
+	 * @since 0.12
+	 * @see #isWriteStorageFiles()
+	 */
+	@Pure
+	public boolean isLoadStorageFiles() {
+		return this.loadStorageFiles;
+	}
+
+	/** Set if the storage files must be loaded in place of the unchanged SARL files.
+	 *
+	 * <p>When this flag is enabled and all the SARL files have an up-to-date storage file
+	 * in the output folder, the SARL files are not parsed, linked and inferred again.
+	 * Their content is restored from the storage files, and their Java code is not regenerated.
+	 * A storage file is out-dated when it is older than its source file or than the class path,
+	 * or when it was generated with a different compiler configuration or set of SARL files.
+	 * If a single storage file is out-dated, all the SARL files are compiled from their source code.
+	 * The storage files of the libraries are always searched on the class path.
+	 *
+	 * @param loadStorageFiles <code>true</code> for loading the storage files.
+	 * @since 0.12
+	 * @see #setWriteStorageFiles(boolean)
+	 */
+	public void setLoadStorageFiles(boolean loadStorageFiles) {
+		this.loadStorageFiles = loadStorageFiles;
+	}
+
 	/** Replies if the compiler is verbose.
 	 *
 	 * @return <code>true</code> if the compiler is verbose.
@@ -1677,6 +1730,9 @@ public class SarlBatchCompiler {
 			this.generator.generate(resource, javaIoFileSystemAccess, context);
 			notifiesCompiledResourceReceiver(resource);
 		}
+		if (isWriteStorageFiles()) {
+			writeStorageFingerprint();
+		}
 	}
 
 	/** Generate the JVM model elements.
@@ -2037,6 +2093,17 @@ public class SarlBatchCompiler {
 		if (progress.isCanceled()) {
 			return;
 		}
+		this.storageSourceFiles.clear();
+		for (final org.eclipse.emf.common.util.URI uri : pathes.values()) {
+			this.storageSourceFiles.add(uri.toString());
+		}
+		Collections.sort(this.storageSourceFiles);
+		if (isLoadStorageFiles()) {
+			installResourceStorageProvider(resourceSet, pathes.values(), progress);
+			if (progress.isCanceled()) {
+				return;
+			}
+		}
 		for (final String source : pathes.keySet()) {
 			for (final org.eclipse.emf.common.util.URI uri : pathes.get(source)) {
 				if (progress.isCanceled()) {
@@ -2050,6 +2117,148 @@ public class SarlBatchCompiler {
 		}
 	}
 
+	/** Install the provider of the storage files into the given resource set.
+	 *
+	 * <p>This function must be called before the SARL files are loaded into the resource set.
+	 *
+	 * <p>The storage files are used only if all the SARL files are unchanged since the generation of
+	 * the storage files. Because the dependencies between the SARL files are not known before they are
+	 * linked, a single changed SARL file may change the inferred types of the other SARL files.
+	 * In this case, all the SARL files of the project are parsed, validated and generated from their
+	 * source code. The storage files of the libraries are still used.
+	 * The additions and removals of SARL files are detected with the storage fingerprint.
+	 *
+	 * @param resourceSet the resource set to configure.
+	 * @param sourceFiles the SARL files that will be loaded into the resource set.
+	 * @param progress monitor of the progress of the compilation.
+	 * @since 0.12
+	 * @see #isLoadStorageFiles()
+	 * @see #computeStorageFingerprint()
+	 */
+	protected void installResourceStorageProvider(ResourceSet resourceSet,
+			Iterable<org.eclipse.emf.common.util.URI> sourceFiles, IProgressMonitor progress) {
+		assert progress != null;
+		progress.subTask(Messages.SarlBatchCompiler_66);
+		if (!Objects.equals(readStorageFingerprint(), computeStorageFingerprint())) {
+			// The storage files were generated with another configuration of the compiler,
+			// or for another set of SARL files
+			getLogger().info(Messages.SarlBatchCompiler_67);
+			return;
+		}
+		final BatchResourceStorageProvider provider = new BatchResourceStorageProvider(
+				getSourcePaths(), getOutputPath(),
+				getClassPathTimestamp(),
+				() -> this.jvmTypesClassLoader);
+		final List<org.eclipse.emf.common.util.URI> sourceLevelUris = new ArrayList<>();
+		int nbChanges = 0;
+		for (final org.eclipse.emf.common.util.URI uri : sourceFiles) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			if (!provider.isUpToDate(uri)) {
+				++nbChanges;
+			}
+			sourceLevelUris.add(uri);
+		}
+		if (nbChanges > 0) {
+			// The storage files of the project are ignored; those of the libraries are still used.
+			getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_70, Integer.valueOf(nbChanges)));
+			SourceLevelURIsAdapter.setSourceLevelUris(resourceSet, sourceLevelUris);
+		} else {
+			SourceLevelURIsAdapter.setSourceLevelUris(resourceSet, Collections.emptyList());
+			getLogger().info(MessageFormat.format(Messages.SarlBatchCompiler_68,
+					Integer.valueOf(sourceLevelUris.size()), Integer.valueOf(0)));
+		}
+		resourceSet.eAdapters().add(provider);
+	}
+
+	/** Replies the date of the last change in the class path and the module path.
+	 *
+	 * <p>The output folders and the source folders of the compiled project are ignored, because they
+	 * are changed by the compilation itself. The date of a jar file is the date of the file. The date
+	 * of a folder is the date of the folder and of its marker files, e.g. {@code META-INF/MANIFEST.MF};
+	 * the content of the folder is not explored.
+	 *
+	 * @return the date of the last change, or {@code 0} if unknown.
+	 * @since 0.12
+	 */
+	protected long getClassPathTimestamp() {
+		final Set<File> ignored = new HashSet<>();
+		for (final File folder : getSourcePaths()) {
+			ignored.add(folder.getAbsoluteFile());
+		}
+		for (final File folder : Arrays.asList(getOutputPath(), getClassOutputPath(), getTempDirectory())) {
+			if (folder != null) {
+				ignored.add(folder.getAbsoluteFile());
+			}
+		}
+		long timestamp = 0L;
+		for (final File file : Iterables.concat(getClassPath(), getModulePath())) {
+			if (!ignored.contains(file.getAbsoluteFile())) {
+				timestamp = Math.max(timestamp, getLastModification(file));
+			}
+		}
+		return timestamp;
+	}
+
+	private static long getLastModification(File file) {
+		long timestamp = file.lastModified();
+		if (file.isDirectory()) {
+			for (final String marker : CLASS_PATH_FOLDER_MARKERS) {
+				timestamp = Math.max(timestamp, new File(file, marker).lastModified());
+			}
+		}
+		return timestamp;
+	}
+
+	/** Compute the fingerprint of the compiler configuration that has an impact on the content
+	 * of the storage files and of the generated files. The fingerprint includes the list of the
+	 * compiled SARL files in order to detect the added and removed files.
+	 *
+	 * @return the fingerprint.
+	 * @since 0.12
+	 */
+	protected String computeStorageFingerprint() {
+		final StringBuilder fingerprint = new StringBuilder();
+		fingerprint.append(SARLVersion.SARL_RELEASE_VERSION).append('\n');
+		fingerprint.append(getJavaSourceVersion()).append('\n');
+		fingerprint.append(Strings.emptyIfNull(getExtraLanguageGenerators())).append('\n');
+		fingerprint.append(Utils.dump(getGeneratorConfig(), false)).append('\n');
+		fingerprint.append(Utils.dump(getGeneratorConfig2(), false)).append('\n');
+		for (final String sourceFile : this.storageSourceFiles) {
+			fingerprint.append(sourceFile).append('\n');
+		}
+		return Integer.toHexString(fingerprint.toString().hashCode());
+	}
+
+	private File getStorageFingerprintFile() {
+		final File output = getOutputPath();
+		return output == null ? null : new File(output, STORAGE_FINGERPRINT_FILENAME);
+	}
+
+	private String readStorageFingerprint() {
+		final File file = getStorageFingerprintFile();
+		if (file != null && file.isFile()) {
+			try {
+				return new String(java.nio.file.Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+			} catch (IOException exception) {
+				reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_69, file), exception);
+			}
+		}
+		return null;
+	}
+
+	private void writeStorageFingerprint() {
+		final File file = getStorageFingerprintFile();
+		if (file != null && file.getParentFile().isDirectory()) {
+			try {
+				java.nio.file.Files.write(file.toPath(), computeStorageFingerprint().getBytes(StandardCharsets.UTF_8));
+			} catch (IOException exception) {
+				reportInternalWarning(MessageFormat.format(Messages.SarlBatchCompiler_69, file), exception);
+			}
+		}
+	}
+
 	/** Create a temporary subdirectory inside the root temp directory.
 	 *
 	 * @param namePrefix the prefix for the folder name.
@@ -115,6 +115,12 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 	@Parameter(defaultValue = "true", required = false)
 	private boolean generateStorageFiles;
 
+	/** Indicates if the storage files should be loaded in place of the unchanged SARL files.
+	 * @since 0.12
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean loadStorageFiles;
+
 	/** Indicates if the equality test functions must be generated by the SARL maven plugin.
 	 * @since 0.8
 	 */
@@ -343,6 +349,11 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		return this.generateStorageFiles;
 	}
 
+	@Override
+	protected boolean getLoadStorageFiles() {
+		return this.loadStorageFiles;
+	}
+
 	@Override
 	protected void buildPropertyString(StringBuilder buffer) {
 		super.buildPropertyString(buffer);
@@ -353,6 +364,7 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		buffer.append("generateInlines = ").append(this.generateInlines).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateTraceFiles = ").append(this.generateTraceFiles).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateStorageFiles = ").append(this.generateStorageFiles).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("loadStorageFiles = ").append(this.loadStorageFiles).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateEqualityTestFunctions = ").append(this.generateEqualityTestFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateToStringFunctions = ").append(this.generateToStringFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateCloneFunctions = ").append(this.generateCloneFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
@@ -167,6 +167,14 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 	 */
 	protected abstract boolean getGenerateStorageFiles();
 
+	/** Replies if the storage files must be loaded by the SARL compiler in place of
+	 * the unchanged SARL files.
+	 *
+	 * @return <code>true</code> for loading the storage files.
+	 * @since 0.12
+	 */
+	protected abstract boolean getLoadStorageFiles();
+
 	/** Replies if the equality test functions must be generated by the SARL compiler.
 	 *
 	 * @return <code>true</code> for generating the functions.
@@ -280,6 +288,7 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 		compiler.setFileEncoding(getEncoding());
 		compiler.setWriteTraceFiles(getGenerateTraceFiles());
 		compiler.setWriteStorageFiles(getGenerateStorageFiles());
+		compiler.setLoadStorageFiles(getLoadStorageFiles());
 		compiler.setGenerateInlineAnnotation(getGenerateInlines());
 		compiler.setGeneratePureAnnotation(getGeneratePures());
 		compiler.setGenerateEqualityTestFunctions(getGenerateEqualityTestFunctions());
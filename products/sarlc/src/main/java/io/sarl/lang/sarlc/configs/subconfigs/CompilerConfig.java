@@ -79,6 +79,13 @@ public class CompilerConfig {
 	 */
 	public static final String OUTPUT_STORAGES_NAME = PREFIX + ".outputStorageFiles"; //$NON-NLS-1$
 
+	/**
+	 * Name of the property that indicates if the storage files should be loaded in place of
+	 * the unchanged SARL files.
+	 * @since 0.12
+	 */
+	public static final String INPUT_STORAGES_NAME = PREFIX + ".inputStorageFiles"; //$NON-NLS-1$
+
 	/**
 	 * Name of the property that indicates if inline annotations are generated.
 	 */
@@ -127,6 +134,8 @@ public class CompilerConfig {
 
 	private boolean storageFiles = true;
 
+	private boolean inputStorageFiles;
+
 	private boolean generateInlines = GeneratorConfig2.DEFAULT_GENERATE_INLINE_ANNOTATION;
 
 	private boolean generatePures = GeneratorConfig2.DEFAULT_GENERATE_PURE_ANNOTATION;
@@ -294,6 +303,25 @@ public class CompilerConfig {
 		this.storageFiles = enable;
 	}
 
+	/** Replies if the storage files are loaded in place of the unchanged SARL files.
+	 *
+	 * @return {@code true} if the storage files are loaded.
+	 * @since 0.12
+	 */
+	public boolean getInputStorageFiles() {
+		return this.inputStorageFiles;
+	}
+
+	/** Change the flag that indicates if the storage files should be loaded in place of the unchanged SARL files.
+	 *
+	 * @param enable {@code true} if the storage files are loaded.
+	 * @since 0.12
+	 */
+	@BQConfigProperty("Enable or disable the loading of the storage files in place of the unchanged SARL files")
+	public void setInputStorageFiles(boolean enable) {
+		this.inputStorageFiles = enable;
+	}
+
 	/** Replies the Java compiler that is run after the Java code is generated..
 	 *
 	 * @return the Java compiler to run.
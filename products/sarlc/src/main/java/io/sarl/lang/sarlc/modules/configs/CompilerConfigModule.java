@@ -30,6 +30,7 @@ import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_INLI
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_PURES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_SERIAL_IDS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_TOSTRING_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.INPUT_STORAGES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_COMPILER_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_VERSION_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.OUTPUT_STORAGES_NAME;
@@ -72,6 +73,8 @@ public class CompilerConfigModule extends AbstractModule {
 
 	private static final String WRITESTORAGES_OPTION = "write-storages"; //$NON-NLS-1$
 
+	private static final String LOADSTORAGES_OPTION = "load-storages"; //$NON-NLS-1$
+
 	private static final String GENERATEINLINES_OPTION = "generate-inlines"; //$NON-NLS-1$
 
 	private static final String GENERATEPURES_OPTION = 	"generate-pures"; //$NON-NLS-1$
@@ -139,6 +142,14 @@ public class CompilerConfigModule extends AbstractModule {
 				.build())
 			.mapConfigPath(WRITESTORAGES_OPTION, OUTPUT_STORAGES_NAME);
 
+		VariableDecls.extend(binder()).declareVar(INPUT_STORAGES_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				LOADSTORAGES_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_14, Boolean.FALSE))
+				.valueOptionalWithDefault(trueFalseValues, Boolean.TRUE.toString())
+				.build())
+			.mapConfigPath(LOADSTORAGES_OPTION, INPUT_STORAGES_NAME);
+
 		VariableDecls.extend(binder()).declareVar(GENERATE_INLINES_NAME);
 		extend(binder()).addOption(OptionMetadata.builder(
 				GENERATEINLINES_OPTION,
@@ -121,7 +121,8 @@ public class SarlBatchCompilerModule extends AbstractModule {
 		compiler.setJavaCompiler(javaCompilerProvider.get());
 		compiler.setOptimizationLevel(cfg.getCompiler().getOptimizationLevelObject());
 		compiler.setWriteTraceFiles(compilerConfig.getOutputTraceFiles());
-		compiler.setWriteStorageFiles(compilerConfig.getOutputTraceFiles());
+		compiler.setWriteStorageFiles(compilerConfig.getOutputStorageFiles());
+		compiler.setLoadStorageFiles(compilerConfig.getInputStorageFiles());
 
 		compiler.setGenerateInlineAnnotation(compilerConfig.getGenerateInlines());
 		compiler.setUseExpressionInterpreterForInlineAnnotation(compilerConfig.getCompressInlineExpressions());
@@ -0,0 +1,198 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.boot.configs.subconfigs;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Strings;
+
+/**
+ * Type of generator of the identifiers of the agents, and of their inner contexts.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.12
+ */
+public enum IdentifierGeneratorType {
+
+	/** The identifiers are random UUIDs (version 4) that are generated with a cryptographically
+	 * strong random number generator. The generator is shared by all the threads.
+	 */
+	SECURE_RANDOM {
+		@Override
+		public UUID newIdentifier() {
+			return UUID.randomUUID();
+		}
+	},
+
+	/** The identifiers are random UUIDs (version 4) that are generated with the random number
+	 * generator of the current thread. The identifiers are not guaranteed to be unguessable.
+	 */
+	THREAD_LOCAL_RANDOM {
+		@Override
+		public UUID newIdentifier() {
+			final ThreadLocalRandom random = ThreadLocalRandom.current();
+			long msb = random.nextLong();
+			long lsb = random.nextLong();
+			// Version 4
+			msb = (msb & ~0xf000L) | 0x4000L;
+			// IETF variant
+			lsb = (lsb & ~(0xc000L << 48)) | (0x8000L << 48);
+			return new UUID(msb, lsb);
+		}
+	},
+
+	/** The identifiers are time-based UUIDs (version 1). The timestamp is strictly increasing
+	 * for all the identifiers generated by the virtual machine. The node and the clock sequence are
+	 * randomly selected when the virtual machine starts.
+	 */
+	TIME_BASED {
+		@Override
+		public UUID newIdentifier() {
+			final long time = TimeBasedState.nextTimestamp();
+			// time_low | time_mid | version | time_hi
+			final long msb = (time << 32)
+					| ((time & 0xffff00000000L) >>> 16)
+					| 0x1000L
+					| ((time >>> 48) & 0x0fffL);
+			return new UUID(msb, TimeBasedState.LSB);
+		}
+	};
+
+	/** Replies a new identifier.
+	 *
+	 * @return the new identifier.
+	 */
+	public abstract UUID newIdentifier();
+
+	/** Parse the given case insensitive string for obtaining the type.
+	 *
+	 * @param name the string to parse.
+	 * @return the type.
+	 * @throws NullPointerException when the specified name is null
+	 */
+	@JsonCreator
+	public static IdentifierGeneratorType valueOfCaseInsensitive(String name) {
+		if (Strings.isNullOrEmpty(name)) {
+			throw new NullPointerException("name is null"); //$NON-NLS-1$
+		}
+		try {
+			final IdentifierGeneratorType type = valueOf(name.toUpperCase());
+			if (type != null) {
+				return type;
+			}
+		} catch (Throwable exception) {
+			//
+		}
+		throw new IllegalArgumentException("illegal value for name: " + name); //$NON-NLS-1$
+	}
+
+	/** Replies the Json string representation of this type.
+	 *
+	 * @return the Json string representation.
+	 */
+	@JsonValue
+	public String toJsonString() {
+		return name().toLowerCase();
+	}
+
+	/** Replies the default type of identifier generator.
+	 *
+	 * @return the default type.
+	 */
+	public static IdentifierGeneratorType getDefault() {
+		return SECURE_RANDOM;
+	}
+
+	/** Replies the Json labels for the types of identifier generator.
+	 *
+	 * @return the labels.
+	 */
+	public static String getJsonLabels() {
+		final StringBuilder buffer = new StringBuilder();
+		boolean first = true;
+		for (final IdentifierGeneratorType type : values()) {
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(", "); //$NON-NLS-1$
+			}
+			buffer.append(type.toJsonString());
+		}
+		return buffer.toString();
+	}
+
+	/** State of the time-based generator.
+	 * It is lazily initialized when the first time-based identifier is generated.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.12
+	 */
+	private static final class TimeBasedState {
+
+		/** Number of 100-nanosecond intervals between the UUID epoch (1582-10-15) and the Unix epoch.
+		 */
+		private static final long UUID_EPOCH_OFFSET = 0x01b21dd213814000L;
+
+		/** Clock sequence, variant and node of the identifiers.
+		 */
+		static final long LSB;
+
+		private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+		static {
+			final SecureRandom random = new SecureRandom();
+			long lsb = random.nextLong();
+			// IETF variant
+			lsb = (lsb & ~(0xc000L << 48)) | (0x8000L << 48);
+			// Multicast bit of the node for indicating a random node
+			lsb |= 0x010000000000L;
+			LSB = lsb;
+		}
+
+		private TimeBasedState() {
+			//
+		}
+
+		/** Replies the next timestamp in 100-nanosecond intervals since the UUID epoch.
+		 * The replied value is strictly greater than the previously replied value.
+		 *
+		 * @return the timestamp.
+		 */
+		static long nextTimestamp() {
+			final long now = System.currentTimeMillis() * 10000L + UUID_EPOCH_OFFSET;
+			return LAST_TIMESTAMP.updateAndGet(last -> now > last ? now : last + 1);
+		}
+
+	}
+
+}
@@ -22,6 +22,7 @@ package io.sarl.core.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,7 +61,7 @@ public class DefaultContextInteractionsTest extends AbstractSarlCoreTest<Capacit
 	 */
 	@Test
 	public void memberCount() {
-		assertEquals(13, this.type.getDeclaredMethods().length);
+		assertEquals(15, this.type.getDeclaredMethods().length);
 	}
 
 	/**
@@ -98,6 +99,20 @@ public class DefaultContextInteractionsTest extends AbstractSarlCoreTest<Capacit
 		assertMethod("emit", void.class, Event.class); //$NON-NLS-1$
 	}
 
+	/**
+	 */
+	@Test
+	public void emitAllCollectionScope() {
+		assertMethod("emitAll", void.class, Collection.class, Scope.class); //$NON-NLS-1$
+	}
+
+	/**
+	 */
+	@Test
+	public void emitAllCollection() {
+		assertMethod("emitAll", void.class, Collection.class); //$NON-NLS-1$
+	}
+
 	/**
 	 */
 	@Test
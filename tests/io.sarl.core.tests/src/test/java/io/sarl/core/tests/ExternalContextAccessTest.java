@@ -22,6 +22,7 @@ package io.sarl.core.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Collection;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
@@ -60,7 +61,7 @@ public class ExternalContextAccessTest extends AbstractSarlCoreTest<Capacity> {
 	 */
 	@Test
 	public void memberCount() {
-		assertEquals(10, this.type.getDeclaredMethods().length);
+		assertEquals(12, this.type.getDeclaredMethods().length);
 	}
 
 	/**
@@ -112,6 +113,20 @@ public class ExternalContextAccessTest extends AbstractSarlCoreTest<Capacity> {
 		assertMethod("emit", void.class, EventSpace.class, Event.class); //$NON-NLS-1$
 	}
 
+	/**
+	 */
+	@Test
+	public void emitAll_EventSpaceCollectionScope() {
+		assertMethod("emitAll", void.class, EventSpace.class, Collection.class, Scope.class); //$NON-NLS-1$
+	}
+
+	/**
+	 */
+	@Test
+	public void emitAll_EventSpaceCollection() {
+		assertMethod("emitAll", void.class, EventSpace.class, Collection.class); //$NON-NLS-1$
+	}
+
 	/**
 	 */
 	@Test
@@ -121,6 +121,15 @@ public class AddressTest extends AbstractSarlTest {
 		assertFalse(this.adr.equals(new Object()));
 	}
 
+	/**
+	 */
+	@Test
+	public void hashCodeTest() {
+		final int hash = this.adr.hashCode();
+		assertEquals(hash, this.adr.hashCode());
+		assertEquals(hash, new Address(this.spaceID, this.agentID).hashCode());
+	}
+
 	/**
 	 */
 	@Test
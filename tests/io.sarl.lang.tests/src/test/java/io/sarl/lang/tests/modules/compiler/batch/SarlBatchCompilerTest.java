@@ -20,16 +20,29 @@
  */
 package io.sarl.lang.tests.modules.compiler.batch;
 
+import static io.sarl.tests.api.tools.TestUtils.multilineString;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.arakhne.afc.vmutil.FileSystem;
 import org.eclipse.xtext.validation.Issue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 
 import io.sarl.lang.compiler.batch.SarlBatchCompiler;
 
@@ -69,4 +82,131 @@ public class SarlBatchCompilerTest extends AbstractBatchCompilerTest {
 		}
 	}
 
+	private static final String SARL_CODE_A = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class A {",
+			"  def value {",
+			"    1",
+			"  }",
+			"}");
+
+	private static final String SARL_CODE_A2 = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class A {",
+			"  def value {",
+			"    \"a\"",
+			"  }",
+			"}");
+
+	private static final String SARL_CODE_B = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class B {",
+			"  def value {",
+			"    new A().value",
+			"  }",
+			"}");
+
+	private List<String> runStorageBatchCompiler(File root) throws Exception {
+		final File sourceDirectory = new File(root, "src");
+		final File sarlcOutputDirectory = new File(root, "src-gen");
+		sarlcOutputDirectory.mkdirs();
+		final File javacOutputDirectory = new File(root, "bin");
+		javacOutputDirectory.mkdirs();
+		final File buildDirectory = new File(root, "build");
+		buildDirectory.mkdirs();
+		final SarlBatchCompiler compiler = this.compilerProvider.get();
+		compiler.setBasePath(root.getAbsolutePath());
+		compiler.setSourcePath(sourceDirectory.getAbsolutePath());
+		compiler.setOutputPath(sarlcOutputDirectory);
+		compiler.setClassOutputPath(javacOutputDirectory);
+		compiler.setTempDirectory(buildDirectory);
+		// As within Maven, the output folders of the project are on the class path
+		compiler.setClassPath(Arrays.asList(javacOutputDirectory, sarlcOutputDirectory));
+		compiler.setJavaCompilerVerbose(false);
+		compiler.setGenerateInlineAnnotation(false);
+		compiler.setReportInternalProblemsAsIssues(true);
+		compiler.setWriteStorageFiles(true);
+		compiler.setLoadStorageFiles(true);
+		final List<String> messages = new ArrayList<>();
+		final Logger logger = Logger.getAnonymousLogger();
+		logger.setUseParentHandlers(false);
+		logger.setLevel(Level.ALL);
+		logger.addHandler(new Handler() {
+			@Override
+			public void publish(LogRecord record) {
+				messages.add(record.getMessage());
+			}
+			@Override
+			public void flush() {
+				//
+			}
+			@Override
+			public void close() {
+				//
+			}
+		});
+		compiler.setLogger(logger);
+		final List<Issue> issues = new ArrayList<>();
+		compiler.addIssueMessageListener((issue, uri, message) -> {
+			issues.add(issue);
+		});
+		if (!compiler.compile()) {
+			throw new RuntimeException("Compilation error: " + issues.toString());
+		}
+		return messages;
+	}
+
+	private static void writeSarlFile(File root, String name, String code, long timestamp) throws Exception {
+		final File sourceDirectory = new File(root, "src");
+		sourceDirectory.mkdirs();
+		final File file = new File(sourceDirectory, name);
+		Files.write(file.toPath(), code.getBytes(StandardCharsets.UTF_8));
+		if (timestamp > 0) {
+			file.setLastModified(timestamp);
+		}
+	}
+
+	private static boolean containsRestoration(List<String> messages) {
+		return messages.stream().anyMatch(it -> it.startsWith("Restoring 2 SARL file(s)"));
+	}
+
+	@Test
+	@DisplayName("Storage files used when no SARL file is changed")
+	public void testStorageFiles_unchanged() throws Exception {
+		final File root = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			final long past = System.currentTimeMillis() - 60000;
+			writeSarlFile(root, "A.sarl", SARL_CODE_A, past);
+			writeSarlFile(root, "B.sarl", SARL_CODE_B, past);
+			assertFalse(containsRestoration(runStorageBatchCompiler(root)));
+			// The output folders are changed after the storage files are written, but they are
+			// not taken into account for invalidating the storage files
+			assertTrue(containsRestoration(runStorageBatchCompiler(root)));
+		} finally {
+			FileSystem.delete(root);
+		}
+	}
+
+	@Test
+	@DisplayName("Storage files ignored when a dependency is changed")
+	public void testStorageFiles_dependencyChanged() throws Exception {
+		final File root = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			final long past = System.currentTimeMillis() - 60000;
+			writeSarlFile(root, "A.sarl", SARL_CODE_A, past);
+			writeSarlFile(root, "B.sarl", SARL_CODE_B, past);
+			runStorageBatchCompiler(root);
+			// Only A is changed; the inferred type of B.value must be updated
+			writeSarlFile(root, "A.sarl", SARL_CODE_A2, System.currentTimeMillis() + 60000);
+			final List<String> messages = runStorageBatchCompiler(root);
+			assertFalse(containsRestoration(messages));
+			assertTrue(messages.stream().anyMatch(it -> it.startsWith("1 SARL file(s) changed")), messages.toString());
+			final File javaFile = new File(root, "src-gen/io/sarl/lang/tests/compiler/batch/B.java");
+			final String javaCode = new String(Files.readAllBytes(javaFile.toPath()), StandardCharsets.UTF_8);
+			assertTrue(javaCode.contains("public String value()"), javaCode);
+		} finally {
+			FileSystem.delete(root);
+		}
+	}
+
 }